@@ -0,0 +1,26 @@
+package com.taskmanager.ts.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Buffers the response body so it is written with a Content-Length. Jackson flushes while it writes,
+ * which otherwise commits the response before its size is known; Tomcat then compresses every body
+ * and {@code server.compression.min-response-size} never applies.
+ */
+public class ContentLengthFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        wrapper.copyBodyToResponse();
+    }
+}
@@ -3,7 +3,10 @@ package com.taskmanager.ts.controller;
 import com.taskmanager.ts.model.Task;
 import com.taskmanager.ts.service.TaskService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,9 +36,13 @@ public class TaskController {
     }
 
     @PostMapping
-    public ResponseEntity<Task> createTask(@Valid @RequestBody Task task) {
+    public ResponseEntity<Task> createTask(@Valid @RequestBody Task task,
+                                           @RequestHeader(value = "Idempotency-Key", required = false)
+                                           @Size(max = 255)
+                                           @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+                                           String idempotencyKey) {
 
-        return ResponseEntity.ok(taskService.createTask(task));
+        return ResponseEntity.ok(taskService.createTask(task, idempotencyKey));
     }
 
     @PutMapping("/{id}")
@@ -80,5 +87,9 @@ public class TaskController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<String> handleConstraintViolation(ConstraintViolationException e) {
+        return new ResponseEntity<>("Invalid request: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 
 }
@@ -1,5 +1,7 @@
 package com.taskmanager.ts.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -28,6 +30,10 @@ public class Task {
     private String priority;
     private String status;
 
+    @JsonIgnore
+    @Column(updatable = false)
+    private String idempotencyKey;
+
     public Long getId() {
         return id;
     }
@@ -82,4 +88,12 @@ public class Task {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
 }
\ No newline at end of file
@@ -2,8 +2,27 @@ package com.taskmanager.ts.repository;
 
 import com.taskmanager.ts.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    List<Task> findByPriorityAndStatus(String priority, String status);
+
+    boolean existsByStatus(String status);
+
+    Optional<Task> findByIdempotencyKey(String idempotencyKey);
+
+    // Single UPDATE instead of loading and saving each row. It bypasses the entity lifecycle, which Task
+    // does not use (no @Version, listeners or callbacks). Pending changes are flushed first and the
+    // persistence context is cleared afterwards so no caller keeps a stale status.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :status where t.priority = :priority")
+    int updateStatusByPriority(@Param("priority") String priority, @Param("status") String status);
 }
@@ -0,0 +1,63 @@
+package com.taskmanager.ts.service;
+
+import com.taskmanager.ts.model.Task;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU of recently seen {@code Idempotency-Key} values and the task created for each,
+ * so client retries of {@code POST /tasks} are answered without a database round trip.
+ * Entries are keyed by idempotency key and also indexed by task id, so a task that is updated
+ * or deleted can be dropped without scanning the cache.
+ */
+@Component
+public class IdempotencyCache {
+
+    private final Map<String, Task> entries;
+    private final Map<Long, String> keysByTaskId = new HashMap<>();
+
+    public IdempotencyCache(@Value("${task.idempotency.cache-size:10000}") int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Task> eldest) {
+                if (size() > capacity) {
+                    keysByTaskId.remove(eldest.getValue().getId());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Task get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, Task task) {
+        Task previous = entries.put(key, task);
+        if (previous != null) {
+            keysByTaskId.remove(previous.getId());
+        }
+        keysByTaskId.put(task.getId(), key);
+    }
+
+    public synchronized void evictTask(Long taskId) {
+        String key = keysByTaskId.remove(taskId);
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        keysByTaskId.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
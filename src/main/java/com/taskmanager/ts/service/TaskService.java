@@ -5,11 +5,14 @@ import com.taskmanager.ts.repository.TaskRepository;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Service
 public class TaskService {
@@ -17,6 +20,9 @@ public class TaskService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
     public List<Task> getAllTasks() {
 
         return taskRepository.findAll();
@@ -32,10 +38,44 @@ public class TaskService {
         return taskRepository.save(task);
     }
 
+    // Replays of the same key return the task created by the first request. Recent keys are answered
+    // from the in-memory cache; older ones are looked up by key before anything is inserted.
+    // Updating a task evicts its entry, so a later replay returns the current row; deleting a task
+    // releases its key, so a later replay creates a new task.
+    public Task createTask(Task task, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createTask(task);
+        }
+        Task cached = idempotencyCache.get(idempotencyKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Task created = taskRepository.findByIdempotencyKey(idempotencyKey)
+                .orElseGet(() -> insertWithKey(task, idempotencyKey));
+        idempotencyCache.put(idempotencyKey, created);
+        return created;
+    }
+
+    // The unique constraint only settles concurrent first requests for the same key. The losing insert
+    // rolls back, and JpaTransactionManager clears the EntityManager on rollback (including the one
+    // open-in-view binds to the web request), so the lookup that follows does not trip over the failed
+    // entity. Must not run inside a caller's transaction, which would keep that entity around.
+    private Task insertWithKey(Task task, String idempotencyKey) {
+        try {
+            task.setIdempotencyKey(idempotencyKey);
+            return taskRepository.save(task);
+        } catch (DataIntegrityViolationException e) {
+            return taskRepository.findByIdempotencyKey(idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
     public Task updateTask(Long id, Task task) {
         if (taskRepository.existsById(id)) {
             task.setId(id);
-            return taskRepository.save(task);
+            Task updated = taskRepository.save(task);
+            idempotencyCache.evictTask(id);
+            return updated;
         }
         return null;
     }
@@ -43,29 +83,34 @@ public class TaskService {
     public boolean deleteTask(Long id) {
         if (taskRepository.existsById(id)) {
             taskRepository.deleteById(id);
+            idempotencyCache.evictTask(id);
             return true;
         }
         return false;
     }
 
-    //using stream APIs
+    @Transactional
     public void updateStatusWithPriority(String priority) {
-        List<Task> tasks = taskRepository.findAll();
-
-        tasks.forEach(task -> {
-            if (task.getPriority().equals(priority)) {
-                task.setStatus("High Priority");
-                taskRepository.save(task);
+        taskRepository.updateStatusByPriority(priority, "High Priority");
+        clearIdempotencyCacheAfterCommit();
+    }
+    // Clearing before the commit would let a replay re-cache the row as it was before the update.
+    private void clearIdempotencyCacheAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idempotencyCache.clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idempotencyCache.clear();
             }
         });
     }
     public boolean hasPendingTasks() {
-        return taskRepository.findAll().stream()
-                .anyMatch(task -> task.getStatus().equals("Pending"));
+        return taskRepository.existsByStatus("Pending");
     }
     public List<Task> getTasksByPriorityAndStatus(String priority, String status) {
-        return taskRepository.findAll().stream()
-                .filter(task -> task.getPriority().equals(priority) && task.getStatus().equals(status))
-                .collect(Collectors.toList());
+        return taskRepository.findByPriorityAndStatus(priority, status);
     }
 }
\ No newline at end of file
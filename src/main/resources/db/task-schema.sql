@@ -0,0 +1,10 @@
+-- Schema changes for the task table, applied on startup through spring.sql.init.
+-- Hibernate does not manage the schema (ddl-auto is none), so every statement must be safe to re-run.
+
+CREATE INDEX IF NOT EXISTS idx_task_priority_status ON task (priority, status);
+CREATE INDEX IF NOT EXISTS idx_task_status ON task (status);
+
+-- Idempotency-Key recorded by POST /tasks. Nullable: tasks created without the header have none,
+-- and a unique index allows any number of NULLs.
+ALTER TABLE task ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(255);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_task_idempotency_key ON task (idempotency_key);
@@ -0,0 +1,124 @@
+package com.taskmanager.ts.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskmanager.ts.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serialization and gzip CPU time, and bytes-on-wire, for the list endpoints per encoding.
+ * Not picked up by the default surefire run; start it explicitly with
+ * {@code mvn test -Dtest=TaskPayloadBenchmark}.
+ */
+class TaskPayloadBenchmark {
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Test
+    void page1k() throws IOException {
+        run(1_000);
+    }
+
+    @Test
+    void page10k() throws IOException {
+        run(10_000);
+    }
+
+    private void run(int size) throws IOException {
+        List<Task> page = tasks(size);
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", mapper(null));
+        mappers.put("cbor", mapper(new CBORFactory()));
+        mappers.put("smile", mapper(new SmileFactory()));
+
+        System.out.printf("%n%,d tasks%n%-6s %12s %12s %16s %16s%n",
+                size, "format", "bytes", "gzip bytes", "avg us/encode", "avg us/gzip");
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] bytes = mapper.writeValueAsBytes(page);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                mapper.writeValueAsBytes(page);
+                gzip(bytes);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                bytes = mapper.writeValueAsBytes(page);
+            }
+            long encodeMicros = (System.nanoTime() - start) / MEASURED_ROUNDS / 1_000;
+
+            byte[] gzipped = null;
+            start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                gzipped = gzip(bytes);
+            }
+            long gzipMicros = (System.nanoTime() - start) / MEASURED_ROUNDS / 1_000;
+
+            sizes.put(entry.getKey(), bytes.length);
+            System.out.printf("%-6s %,12d %,12d %,16d %,16d%n",
+                    entry.getKey(), bytes.length, gzipped.length, encodeMicros, gzipMicros);
+        }
+
+        ObjectMapper json = mappers.get("json");
+        assertThat(json.readTree(json.writeValueAsBytes(page.subList(0, 1))).get(0).get("createdAt").isTextual())
+                .isTrue();
+        assertThat(sizes.get("cbor")).isLessThan(sizes.get("json"));
+        assertThat(sizes.get("smile")).isLessThan(sizes.get("json"));
+    }
+
+    // Same settings Spring Boot applies to the application's mappers: dates as ISO-8601 strings
+    private ObjectMapper mapper(JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        if (factory != null) {
+            builder.factory(factory);
+        }
+        return builder.build();
+    }
+
+    private List<Task> tasks(int size) {
+        String[] priorities = {"Low", "Medium", "High"};
+        String[] statuses = {"Pending", "In Progress", "Completed"};
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description for Task " + i);
+            task.setCreatedAt(now.minusMinutes(i));
+            task.setCompleted(i % 3 == 2);
+            task.setPriority(priorities[i % priorities.length]);
+            task.setStatus(statuses[i % statuses.length]);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
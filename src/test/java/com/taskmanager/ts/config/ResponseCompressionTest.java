@@ -0,0 +1,105 @@
+package com.taskmanager.ts.config;
+
+import com.taskmanager.ts.model.Task;
+import com.taskmanager.ts.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compression is applied by the embedded server, not by Spring MVC, so this runs against a real port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+class ResponseCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private TaskService taskService;
+
+    @Test
+    void getAllTasks_IsGzippedAboveThreshold() throws Exception {
+        when(taskService.getAllTasks()).thenReturn(tasks(100));
+
+        HttpResponse<byte[]> response = get("gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    void getAllTasks_IsNotCompressedWithoutAcceptEncoding() throws Exception {
+        when(taskService.getAllTasks()).thenReturn(tasks(100));
+
+        HttpResponse<byte[]> response = get(null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.body().length).isGreaterThan(2048);
+    }
+
+    @Test
+    void getAllTasks_IsNotCompressedBelowThreshold() throws Exception {
+        when(taskService.getAllTasks()).thenReturn(tasks(1));
+
+        HttpResponse<byte[]> response = get("gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.body().length).isLessThan(2048);
+    }
+
+    @Test
+    void hasPendingTasks_IsNotCompressed() throws Exception {
+        when(taskService.hasPendingTasks()).thenReturn(true);
+
+        HttpResponse<byte[]> response = get("/tasks/has-pending-tasks", "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(response.body())).isEqualTo("true");
+    }
+
+    private HttpResponse<byte[]> get(String acceptEncoding) throws Exception {
+        return get("/tasks", acceptEncoding);
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api" + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private List<Task> tasks(int size) {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description for Task " + i);
+            task.setCreatedAt(LocalDateTime.now());
+            task.setCompleted(false);
+            task.setPriority("Low");
+            task.setStatus("Pending");
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
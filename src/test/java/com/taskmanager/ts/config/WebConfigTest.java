@@ -0,0 +1,135 @@
+package com.taskmanager.ts.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskmanager.ts.controller.TaskController;
+import com.taskmanager.ts.model.Task;
+import com.taskmanager.ts.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskController.class)
+@Import(WebConfig.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class WebConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HttpMessageConverters messageConverters;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @MockBean
+    private TaskService taskService;
+
+    private Task task1;
+
+    @BeforeEach
+    void setUp() {
+        task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Task 1");
+        task1.setDescription("Description for Task 1");
+        task1.setCreatedAt(LocalDateTime.now());
+        task1.setCompleted(false);
+        task1.setPriority("Low");
+        task1.setStatus("Pending");
+    }
+
+    @Test
+    void converters_BinaryBeansTakePrecedenceOverMvcDefaults() {
+        List<HttpMessageConverter<?>> converters = messageConverters.getConverters();
+
+        // Boot places each bean ahead of the MVC default of the same type, so the bean is the one selected
+        assertThat(converters.stream().filter(MappingJackson2CborHttpMessageConverter.class::isInstance).findFirst())
+                .containsSame(cborConverter);
+        assertThat(converters.stream().filter(MappingJackson2SmileHttpMessageConverter.class::isInstance).findFirst())
+                .containsSame(smileConverter);
+        assertThat(converters.indexOf(cborConverter)).isGreaterThan(indexOfFirstJsonConverter(converters));
+        assertThat(converters.indexOf(smileConverter)).isGreaterThan(indexOfFirstJsonConverter(converters));
+    }
+
+    @Test
+    void getAllTasks_DefaultsToJson() throws Exception {
+        when(taskService.getAllTasks()).thenReturn(List.of(task1));
+
+        mockMvc.perform(get("/tasks").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void getAllTasks_ReturnsCborWhenRequested() throws Exception {
+        when(taskService.getAllTasks()).thenReturn(List.of(task1));
+
+        MvcResult result = mockMvc.perform(get("/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode tasks = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).get("title").asText()).isEqualTo("Task 1");
+        // Boot's Jackson settings apply: dates are ISO strings rather than timestamp arrays
+        assertThat(tasks.get(0).get("createdAt").isTextual()).isTrue();
+    }
+
+    @Test
+    void getTasksByPriorityAndStatus_ReturnsSmileWhenRequested() throws Exception {
+        when(taskService.getTasksByPriorityAndStatus("Low", "Pending")).thenReturn(List.of(task1));
+
+        MvcResult result = mockMvc.perform(get("/tasks/filter")
+                        .param("priority", "Low")
+                        .param("status", "Pending")
+                        .accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn();
+
+        JsonNode tasks = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).get("status").asText()).isEqualTo("Pending");
+        assertThat(tasks.get(0).get("createdAt").isTextual()).isTrue();
+    }
+
+    private int indexOfFirstJsonConverter(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
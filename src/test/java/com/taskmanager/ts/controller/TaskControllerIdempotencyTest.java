@@ -0,0 +1,96 @@
+package com.taskmanager.ts.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.ts.repository.TaskRepository;
+import com.taskmanager.ts.service.IdempotencyCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Replays of {@code POST /tasks} once the key has left {@link IdempotencyCache}, through the full web stack
+ * (open-in-view included) against an embedded database. Requests commit, so rows are removed after each test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class TaskControllerIdempotencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from task");
+        idempotencyCache.clear();
+    }
+
+    @Test
+    void createTask_ReplayAfterCacheEviction_ReturnsOriginalTask() throws Exception {
+        long originalId = create("evicted-key");
+        idempotencyCache.clear();
+
+        long replayedId = create("evicted-key");
+
+        assertThat(replayedId).isEqualTo(originalId);
+        assertThat(rowsWithKey("evicted-key")).isEqualTo(1);
+    }
+
+    @Test
+    void createTask_ReplayLosingInsertRace_ReturnsOriginalTask() throws Exception {
+        long originalId = create("race-key");
+        idempotencyCache.clear();
+        // The first lookup misses as if the original request had not committed yet, so the insert hits the
+        // constraint; the lookup after the rollback then reads the stored row through the same request.
+        doReturn(Optional.empty())
+                .doAnswer(invocation -> taskRepository.findById(originalId))
+                .when(taskRepository).findByIdempotencyKey("race-key");
+
+        long replayedId = create("race-key");
+
+        assertThat(replayedId).isEqualTo(originalId);
+        assertThat(rowsWithKey("race-key")).isEqualTo(1);
+    }
+
+    private long create(String idempotencyKey) throws Exception {
+        byte[] body = mockMvc.perform(post("/tasks")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Task 1\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private Integer rowsWithKey(String idempotencyKey) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from task where idempotency_key = ?", Integer.class, idempotencyKey);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -99,8 +100,8 @@ class TaskControllerTest {
     @Test
     void testCreatTask() throws Exception{
 
-        when(taskService.createTask(any(Task.class))).thenReturn(task1);
-        ResponseEntity<Task> responseEntity = taskController.createTask(task1);
+        when(taskService.createTask(any(Task.class), isNull())).thenReturn(task1);
+        ResponseEntity<Task> responseEntity = taskController.createTask(task1, null);
 
         // Assert: Verify the response
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -0,0 +1,70 @@
+package com.taskmanager.ts.controller;
+
+import com.taskmanager.ts.model.Task;
+import com.taskmanager.ts.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Web-layer checks that need the real {@code @Validated} controller proxy, which the standalone
+ * setup in {@link TaskControllerTest} does not create.
+ */
+@WebMvcTest(TaskController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class TaskControllerWebTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    @Test
+    void createTask_AcceptsIdempotencyKey() throws Exception {
+        when(taskService.createTask(any(Task.class), eq("key-1"))).thenReturn(new Task());
+
+        mockMvc.perform(post("/tasks")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Task 1\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void createTask_RejectsBlankIdempotencyKey() throws Exception {
+        for (String blank : new String[] {"", " "}) {
+            mockMvc.perform(post("/tasks")
+                            .header("Idempotency-Key", blank)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Task 1\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(taskService, never()).createTask(any(Task.class), anyString());
+    }
+
+    @Test
+    void createTask_RejectsOverlongIdempotencyKey() throws Exception {
+        mockMvc.perform(post("/tasks")
+                        .header("Idempotency-Key", "k".repeat(256))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Task 1\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).createTask(any(Task.class), anyString());
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskmanager.ts.service;
+
+import com.taskmanager.ts.model.Task;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    @Test
+    void get_ReturnsStoredTask() {
+        IdempotencyCache cache = new IdempotencyCache(2);
+        Task task = new Task();
+
+        cache.put("key-1", task);
+
+        assertSame(task, cache.get("key-1"));
+        assertNull(cache.get("key-2"));
+    }
+
+    @Test
+    void put_EvictsLeastRecentlyUsedKey() {
+        IdempotencyCache cache = new IdempotencyCache(2);
+
+        cache.put("key-1", new Task());
+        cache.put("key-2", new Task());
+        cache.get("key-1");
+        cache.put("key-3", new Task());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("key-1"));
+        assertNull(cache.get("key-2"));
+        assertNotNull(cache.get("key-3"));
+    }
+
+    @Test
+    void evictTask_RemovesEntryForTask() {
+        IdempotencyCache cache = new IdempotencyCache(2);
+        Task task = new Task();
+        task.setId(1L);
+
+        cache.put("key-1", task);
+        cache.evictTask(1L);
+
+        assertNull(cache.get("key-1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictTask_DoesNotRemoveKeyReusedAfterCapacityEviction() {
+        IdempotencyCache cache = new IdempotencyCache(1);
+        Task first = new Task();
+        first.setId(1L);
+        Task second = new Task();
+        second.setId(2L);
+
+        cache.put("key-1", first);
+        cache.put("key-2", second);   // pushes key-1 out
+        cache.put("key-1", second);   // key-1 now belongs to task 2
+        cache.evictTask(1L);
+
+        assertSame(second, cache.get("key-1"));
+    }
+}
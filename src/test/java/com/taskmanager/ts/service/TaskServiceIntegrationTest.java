@@ -0,0 +1,278 @@
+package com.taskmanager.ts.service;
+
+import com.taskmanager.ts.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link TaskService} against an embedded H2 database seeded with {@value #SEED_SIZE} tasks and
+ * checks, per method, the number of SQL statements issued, that filtered lookups are served by an
+ * index rather than a table scan, and a wall-clock budget. A reintroduced {@code findAll()} filter or
+ * per-row {@code save} loop fails here.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.taskmanager.ts.service.SqlStatementRecorder")
+@Import({TaskService.class, IdempotencyCache.class})
+class TaskServiceIntegrationTest {
+
+    private static final int SEED_SIZE = 20_000;
+    private static final String[] PRIORITIES = {"Low", "Medium", "High", "Urgent"};
+    private static final String[] STATUSES = {"Pending", "In Progress", "Blocked", "Review", "Completed"};
+
+    // Sized for a cold JVM on a single-core CI runner; statement counts and plans are the precise checks,
+    // these only catch gross regressions such as hydrating the whole table for a filtered lookup.
+    private static final Duration LOOKUP_BUDGET = Duration.ofSeconds(2);
+    private static final Duration FULL_LIST_BUDGET = Duration.ofSeconds(6);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    private Long existingId;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "insert into task (title, description, created_at, completed, priority, status) values (?, ?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setString(1, "Task " + i);
+                        ps.setString(2, "Description for Task " + i);
+                        ps.setTimestamp(3, now);
+                        ps.setBoolean(4, i % STATUSES.length == STATUSES.length - 1);
+                        ps.setString(5, PRIORITIES[i % PRIORITIES.length]);
+                        ps.setString(6, STATUSES[(i / PRIORITIES.length) % STATUSES.length]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return SEED_SIZE;
+                    }
+                });
+        existingId = jdbcTemplate.queryForObject("select min(id) from task", Long.class);
+        entityManager.clear();
+        SqlStatementRecorder.reset();
+    }
+
+    @Test
+    void getAllTasks_IssuesSingleSelect() {
+        List<Task> tasks = timed(FULL_LIST_BUDGET, () -> taskService.getAllTasks());
+
+        assertThat(tasks).hasSize(SEED_SIZE);
+        assertThat(SqlStatementRecorder.statements()).hasSize(1);
+    }
+
+    @Test
+    void getTaskById_UsesPrimaryKey() {
+        Optional<Task> task = timed(LOOKUP_BUDGET, () -> taskService.getTaskById(existingId));
+
+        assertThat(task).isPresent();
+        assertStatementsUseIndex(1);
+    }
+
+    @Test
+    void getTasksByPriorityAndStatus_UsesIndex() {
+        List<Task> tasks = timed(LOOKUP_BUDGET, () -> taskService.getTasksByPriorityAndStatus("High", "Pending"));
+
+        assertThat(tasks).hasSize(SEED_SIZE / (PRIORITIES.length * STATUSES.length));
+        assertThat(tasks).allMatch(task -> "High".equals(task.getPriority()) && "Pending".equals(task.getStatus()));
+        assertStatementsUseIndex(1);
+    }
+
+    @Test
+    void hasPendingTasks_UsesIndex() {
+        boolean pending = timed(LOOKUP_BUDGET, () -> taskService.hasPendingTasks());
+
+        assertThat(pending).isTrue();
+        assertStatementsUseIndex(1);
+    }
+
+    @Test
+    void updateStatusWithPriority_IssuesSingleBulkUpdate() {
+        timed(LOOKUP_BUDGET, () -> {
+            taskService.updateStatusWithPriority("Urgent");
+            return null;
+        });
+
+        assertStatementsUseIndex(1);
+        Integer updated = jdbcTemplate.queryForObject(
+                "select count(*) from task where priority = 'Urgent' and status = 'High Priority'", Integer.class);
+        assertThat(updated).isEqualTo(SEED_SIZE / PRIORITIES.length);
+    }
+
+    @Test
+    void updateStatusWithPriority_KeepsPendingChangesAndRefreshesLoadedTasks() {
+        Task loaded = taskService.getTaskById(existingId).orElseThrow();
+        loaded.setTitle("Edited before bulk update");
+
+        taskService.updateStatusWithPriority(loaded.getPriority());
+
+        Task reloaded = taskService.getTaskById(existingId).orElseThrow();
+        assertThat(reloaded).isNotSameAs(loaded);
+        assertThat(reloaded.getStatus()).isEqualTo("High Priority");
+        assertThat(reloaded.getTitle()).isEqualTo("Edited before bulk update");
+    }
+
+    @Test
+    void updateStatusWithPriority_ClearsIdempotencyCacheOnlyAfterCommit() {
+        Task cached = taskService.getTaskById(existingId).orElseThrow();
+        idempotencyCache.put("cached-key", cached);
+
+        taskService.updateStatusWithPriority("Low");
+        assertThat(idempotencyCache.get("cached-key")).isSameAs(cached);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            assertThat(idempotencyCache.get("cached-key")).isNull();
+        } finally {
+            jdbcTemplate.update("delete from task");
+        }
+    }
+
+    @Test
+    void createTask_IssuesSingleInsert() {
+        Task task = new Task();
+        task.setTitle("New task");
+        task.setPriority("Low");
+        task.setStatus("Pending");
+
+        Task saved = timed(LOOKUP_BUDGET, () -> {
+            Task result = taskService.createTask(task);
+            entityManager.flush();
+            return result;
+        });
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(SqlStatementRecorder.statements()).hasSize(1);
+    }
+
+    @Test
+    void createTask_ReplayWithIdempotencyKey_IssuesNoStatements() {
+        Task task = new Task();
+        task.setTitle("New task");
+        Task first = taskService.createTask(task, "retry-key");
+        entityManager.flush();
+        SqlStatementRecorder.reset();
+
+        Task retry = new Task();
+        retry.setTitle("New task");
+        Task replayed = timed(LOOKUP_BUDGET, () -> taskService.createTask(retry, "retry-key"));
+
+        assertThat(replayed.getId()).isEqualTo(first.getId());
+        assertThat(SqlStatementRecorder.statements()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from task where idempotency_key = 'retry-key'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void idempotencyKey_IsUniqueInSchema() {
+        jdbcTemplate.update("update task set idempotency_key = 'stored-key' where id = ?", existingId);
+
+        // the constraint TaskService.createTask falls back on once a key has left the cache
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "update task set idempotency_key = 'stored-key' where id = ?", existingId + 1))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void updateTask_UsesPrimaryKey() {
+        Task task = new Task();
+        task.setTitle("Updated Title");
+        task.setPriority("Low");
+        task.setStatus("Pending");
+
+        Task updated = timed(LOOKUP_BUDGET, () -> {
+            Task result = taskService.updateTask(existingId, task);
+            entityManager.flush();
+            return result;
+        });
+
+        assertThat(updated).isNotNull();
+        // existence check, merge load, update
+        assertStatementsUseIndex(3);
+    }
+
+    @Test
+    void deleteTask_UsesPrimaryKey() {
+        boolean deleted = timed(LOOKUP_BUDGET, () -> {
+            boolean result = taskService.deleteTask(existingId);
+            entityManager.flush();
+            return result;
+        });
+
+        assertThat(deleted).isTrue();
+        // existence check, load, delete
+        assertStatementsUseIndex(3);
+    }
+
+    private <T> T timed(Duration budget, Supplier<T> call) {
+        long start = System.nanoTime();
+        T result = call.get();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertThat(elapsed).as("wall-clock time").isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    /**
+     * Asserts the recorded statement count, then asks H2 for the plan of each statement and fails
+     * unless it is served by the primary key or one of the {@code idx_task_*} indexes from
+     * {@code db/task-schema.sql}. Checking the index name matters: H2 may otherwise walk an
+     * unrelated index from end to end, which is a full scan that never reports {@code tableScan}.
+     */
+    private void assertStatementsUseIndex(int expectedCount) {
+        List<String> statements = SqlStatementRecorder.statements();
+        assertThat(statements).hasSize(expectedCount);
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as("plan for [%s]", sql)
+                    .doesNotContainIgnoringCase("tableScan")
+                    .containsPattern("PUBLIC\\.(PRIMARY_KEY|IDX_TASK_)");
+        }
+    }
+
+    private String explain(String sql) {
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("explain " + sql, ps -> {
+            for (int i = 1; i <= parameters; i++) {
+                ps.setObject(i, "1");
+            }
+        }, rs -> {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        });
+    }
+}
@@ -7,7 +7,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -22,6 +24,9 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Spy
+    private IdempotencyCache idempotencyCache = new IdempotencyCache(100);
+
     @InjectMocks
     private TaskService taskService;
 
@@ -105,6 +110,49 @@ class TaskServiceTest {
         assertEquals(task1, savedTask);
     }
     @Test
+    void createTask_WithIdempotencyKey_RecordsKey() {
+
+        when(taskRepository.save(task1)).thenReturn(task1);
+
+        Task savedTask = taskService.createTask(task1, "key-1");
+
+        assertEquals(task1, savedTask);
+        assertEquals("key-1", task1.getIdempotencyKey());
+        assertEquals(task1, idempotencyCache.get("key-1"));
+    }
+    @Test
+    void createTask_WhenKeyIsCached_DoesNotTouchRepository() {
+
+        idempotencyCache.put("key-1", task1);
+
+        Task result = taskService.createTask(task2, "key-1");
+
+        assertEquals(task1, result);
+        verifyNoInteractions(taskRepository);
+    }
+    @Test
+    void createTask_WhenKeyStoredButNotCached_ReturnsExistingTask() {
+
+        when(taskRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(task1));
+
+        Task result = taskService.createTask(task2, "key-1");
+
+        assertEquals(task1, result);
+        assertEquals(task1, idempotencyCache.get("key-1"));
+        verify(taskRepository, never()).save(any());
+    }
+    @Test
+    void createTask_WhenConcurrentRequestInsertsKeyFirst_ReturnsExistingTask() {
+
+        when(taskRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.empty(), Optional.of(task1));
+        when(taskRepository.save(task2)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        Task result = taskService.createTask(task2, "key-1");
+
+        assertEquals(task1, result);
+        assertEquals(task1, idempotencyCache.get("key-1"));
+    }
+    @Test
     void updateTask_WhenTaskExists() {
 
         // Mock the repository's behavior
@@ -123,6 +171,18 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(updatedTask);
     }
 
+    @Test
+    void updateTask_EvictsCachedIdempotencyKey() {
+
+        idempotencyCache.put("key-1", task1);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.save(updatedTask)).thenReturn(updatedTask);
+
+        taskService.updateTask(1L, updatedTask);
+
+        assertNull(idempotencyCache.get("key-1"));
+    }
+
     @Test
     void updateTask_WhenTaskDoesNotExist() {
 
@@ -145,6 +205,16 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).deleteById(1L);
     }
     @Test
+    void deleteTask_EvictsCachedIdempotencyKey() {
+
+        idempotencyCache.put("key-1", task1);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        taskService.deleteTask(1L);
+
+        assertNull(idempotencyCache.get("key-1"));
+    }
+    @Test
     void deleteTask_WhenTaskDoesNotExist() {
         when(taskRepository.existsById(1L)).thenReturn(false);
 
@@ -155,24 +225,27 @@ class TaskServiceTest {
     }
     @Test
     void updateStatusWithPriority_ShouldUpdateStatusForTasksWithPriority() {
-        List<Task> tasks = Arrays.asList(task1, task2);
-        when(taskRepository.findAll()).thenReturn(tasks);
 
         taskService.updateStatusWithPriority("Low");
 
-        task2.setCompleted(true);
-        task2.setStatus("Completed");
+        verify(taskRepository, times(1)).updateStatusByPriority("Low", "High Priority");
+        verify(taskRepository, never()).findAll();
+        verify(taskRepository, never()).save(any());
+    }
+    @Test
+    void updateStatusWithPriority_ClearsIdempotencyCache() {
+
+        idempotencyCache.put("key-1", task1);
+
+        taskService.updateStatusWithPriority("Low");
 
-        assertEquals("High Priority", task1.getStatus());
-        assertEquals("Completed", task2.getStatus());  // No change since priority is different
-        verify(taskRepository, times(1)).save(task1);
+        assertEquals(0, idempotencyCache.size());
     }
 
     @Test
     void hasPendingTasks_ShouldReturnTrue_WhenThereArePendingTasks() {
 
-        List<Task> tasks = Arrays.asList(task1, task2);
-        when(taskRepository.findAll()).thenReturn(tasks);
+        when(taskRepository.existsByStatus("Pending")).thenReturn(true);
 
 
         boolean result = taskService.hasPendingTasks();
@@ -184,12 +257,7 @@ class TaskServiceTest {
     @Test
     void hasPendingTasks_ShouldReturnFalse_WhenThereAreNoPendingTasks() {
 
-        task2.setCompleted(true);
-        task2.setStatus("Completed");
-        task1.setCompleted(true);
-        task1.setStatus("Completed");
-        List<Task> tasks = Arrays.asList(task1, task2);
-        when(taskRepository.findAll()).thenReturn(tasks);
+        when(taskRepository.existsByStatus("Pending")).thenReturn(false);
 
         // Act
         boolean result = taskService.hasPendingTasks();
@@ -201,8 +269,7 @@ class TaskServiceTest {
     @Test
     void getTasksByPriorityAndStatus_ShouldReturnFilteredTasks() {
         // Arrange
-        List<Task> tasks = Arrays.asList(task1, task2);
-        when(taskRepository.findAll()).thenReturn(tasks);
+        when(taskRepository.findByPriorityAndStatus("Low", "Pending")).thenReturn(List.of(task1));
 
         // Act
         List<Task> result = taskService.getTasksByPriorityAndStatus("Low", "Pending");